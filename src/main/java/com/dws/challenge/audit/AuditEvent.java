@@ -0,0 +1,43 @@
+package com.dws.challenge.audit;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-layout audit record.
+ * <p>
+ * Instances are preallocated by {@link AuditEventRing} and reused for every event written to
+ * their slot, so publishing an event only copies references and never allocates.
+ */
+@Getter
+public final class AuditEvent {
+
+  private long timestamp;
+  private AuditEventType type;
+  private String accountId;
+  private String counterpartyId;
+  private BigDecimal amount;
+  private String detail;
+  private BigDecimal creditedAmount;
+  private long rateVersion;
+
+  AuditEvent() {
+  }
+
+  void set(long timestamp, AuditEventType type, String accountId, String counterpartyId,
+    BigDecimal amount, String detail, BigDecimal creditedAmount, long rateVersion) {
+    this.timestamp = timestamp;
+    this.type = type;
+    this.accountId = accountId;
+    this.counterpartyId = counterpartyId;
+    this.amount = amount;
+    this.detail = detail;
+    this.creditedAmount = creditedAmount;
+    this.rateVersion = rateVersion;
+  }
+
+  void clear() {
+    set(0L, null, null, null, null, null, null, AuditEventPublisher.NO_RATE_VERSION);
+  }
+}
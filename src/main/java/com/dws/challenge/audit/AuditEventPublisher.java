@@ -0,0 +1,229 @@
+package com.dws.challenge.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Entry point for recording audit events.
+ * <p>
+ * {@link #publish} copies the event into a preallocated ring buffer and returns immediately;
+ * a background thread drains the ring and appends the events as NDJSON to rotating files.
+ * Callers therefore never perform I/O or build strings for auditing.
+ */
+@Component
+@Slf4j
+public class AuditEventPublisher implements DisposableBean {
+
+  /**
+   * Rate version recorded for events that did not involve an FX conversion.
+   */
+  public static final long NO_RATE_VERSION = -1L;
+
+  private static final int MAX_BATCH = 512;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+  private static final long FAILURE_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+  private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+  private static final long SHUTDOWN_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+  private final AuditProperties properties;
+  private final AuditEventRing ring;
+  private final Thread writerThread;
+  private final StringBuilder batch = new StringBuilder(16 * 1024);
+  private volatile boolean running;
+  private long reportedDropped;
+  private long lastDropReport = System.nanoTime();
+
+  public AuditEventPublisher(AuditProperties properties) throws IOException {
+    if (properties.debugSampleRate() <= 0) {
+      throw new IllegalArgumentException("Audit debug sample rate must be positive.");
+    }
+    this.properties = properties;
+    if (!properties.enabled()) {
+      this.ring = null;
+      this.writerThread = null;
+      return;
+    }
+    this.ring = new AuditEventRing(properties.bufferSize());
+    RollingAuditFileWriter fileWriter = new RollingAuditFileWriter(
+      Path.of(properties.directory()), properties.maxFileSize(), properties.maxFiles());
+    this.running = true;
+    this.writerThread = new Thread(() -> runWriter(fileWriter), "audit-writer");
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+  }
+
+  /**
+   * Records an audit event without blocking. Sampled event types are recorded for one in
+   * {@code audit.debug-sample-rate} calls; events are dropped if the buffer is full.
+   *
+   * @param type           the kind of event
+   * @param accountId      the account the event is about, may be null
+   * @param counterpartyId the other account involved, may be null
+   * @param amount         the amount involved, may be null
+   * @param detail         a constant or already-built message, may be null
+   */
+  public void publish(AuditEventType type, String accountId, String counterpartyId,
+    BigDecimal amount, String detail) {
+    publish(type, accountId, counterpartyId, amount, detail, null, NO_RATE_VERSION);
+  }
+
+  /**
+   * Records an audit event for an operation that converted an amount at an FX rate.
+   *
+   * @param creditedAmount the converted amount, may be null
+   * @param rateVersion    the version of the FX rate table used, or {@link #NO_RATE_VERSION}
+   * @see #publish(AuditEventType, String, String, BigDecimal, String)
+   */
+  public void publish(AuditEventType type, String accountId, String counterpartyId,
+    BigDecimal amount, String detail, BigDecimal creditedAmount, long rateVersion) {
+    if (ring == null) {
+      return;
+    }
+    if (type.isSampled() && properties.debugSampleRate() > 1
+      && ThreadLocalRandom.current().nextInt(properties.debugSampleRate()) != 0) {
+      return;
+    }
+    ring.offer(System.currentTimeMillis(), type, accountId, counterpartyId, amount, detail,
+      creditedAmount, rateVersion);
+  }
+
+  /**
+   * Returns the number of events dropped because the buffer was full.
+   */
+  public long getDroppedCount() {
+    return ring == null ? 0L : ring.droppedCount();
+  }
+
+  /**
+   * Stops the writer thread after draining all events published so far, waiting at most
+   * {@value #SHUTDOWN_TIMEOUT_MILLIS} ms so that stalled file I/O cannot block shutdown.
+   */
+  @Override
+  public void destroy() throws InterruptedException {
+    if (writerThread == null) {
+      return;
+    }
+    running = false;
+    LockSupport.unpark(writerThread);
+    writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+    if (writerThread.isAlive()) {
+      log.warn("Audit writer did not stop within {} ms, pending audit events may be lost",
+        SHUTDOWN_TIMEOUT_MILLIS);
+    }
+  }
+
+  private void runWriter(RollingAuditFileWriter fileWriter) {
+    while (running) {
+      if (writeBatch(fileWriter) == 0) {
+        LockSupport.parkNanos(IDLE_PARK_NANOS);
+      }
+      reportDropped(false);
+    }
+    while (writeBatch(fileWriter) > 0) {
+      // drain whatever was published before shutdown
+    }
+    reportDropped(true);
+    try {
+      fileWriter.close();
+    } catch (IOException ex) {
+      log.error("Failed to close audit file: {}", ex.getMessage());
+    }
+  }
+
+  /**
+   * Writes one batch, keeping the writer thread alive on failure: the batch is logged as lost,
+   * the file is reopened and the thread backs off before the next attempt.
+   *
+   * @return the number of events drained, or -1 if the batch could not be written
+   */
+  private int writeBatch(RollingAuditFileWriter fileWriter) {
+    try {
+      return flushBatch(fileWriter);
+    } catch (IOException | RuntimeException ex) {
+      log.error("Failed to write audit events, batch lost: {}", ex.toString());
+      try {
+        fileWriter.reopen();
+      } catch (IOException reopenEx) {
+        log.error("Failed to reopen audit file: {}", reopenEx.getMessage());
+      }
+      if (running) {
+        LockSupport.parkNanos(FAILURE_BACKOFF_NANOS);
+      }
+      return -1;
+    }
+  }
+
+  private void reportDropped(boolean force) {
+    long now = System.nanoTime();
+    if (!force && now - lastDropReport < DROP_REPORT_INTERVAL_NANOS) {
+      return;
+    }
+    lastDropReport = now;
+    long dropped = ring.droppedCount();
+    if (dropped > reportedDropped) {
+      log.warn("{} audit events dropped because the buffer was full ({} in total)",
+        dropped - reportedDropped, dropped);
+      reportedDropped = dropped;
+    }
+  }
+
+  private int flushBatch(RollingAuditFileWriter fileWriter) throws IOException {
+    batch.setLength(0);
+    int drained = ring.drain(this::appendJson, MAX_BATCH);
+    if (drained > 0) {
+      fileWriter.write(batch);
+    }
+    return drained;
+  }
+
+  private void appendJson(AuditEvent event) {
+    batch.append("{\"ts\":").append(event.getTimestamp())
+      .append(",\"type\":\"").append(event.getType().name()).append('"');
+    appendField("account", event.getAccountId());
+    appendField("counterparty", event.getCounterpartyId());
+    if (event.getAmount() != null) {
+      batch.append(",\"amount\":").append(event.getAmount().toPlainString());
+    }
+    appendField("detail", event.getDetail());
+    if (event.getCreditedAmount() != null) {
+      batch.append(",\"creditedAmount\":").append(event.getCreditedAmount().toPlainString());
+    }
+    if (event.getRateVersion() != NO_RATE_VERSION) {
+      batch.append(",\"rateVersion\":").append(event.getRateVersion());
+    }
+    batch.append("}\n");
+  }
+
+  private void appendField(String name, String value) {
+    if (value == null) {
+      return;
+    }
+    batch.append(",\"").append(name).append("\":\"");
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"' -> batch.append("\\\"");
+        case '\\' -> batch.append("\\\\");
+        case '\n' -> batch.append("\\n");
+        case '\r' -> batch.append("\\r");
+        case '\t' -> batch.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            batch.append(String.format("\\u%04x", (int) c));
+          } else {
+            batch.append(c);
+          }
+        }
+      }
+    }
+    batch.append('"');
+  }
+}
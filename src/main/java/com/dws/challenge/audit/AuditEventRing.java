@@ -0,0 +1,111 @@
+package com.dws.challenge.audit;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated {@link AuditEvent} slots.
+ * <p>
+ * Producers claim a sequence with a CAS and never block: when the consumer has fallen a full
+ * ring behind, the event is dropped and counted instead.
+ */
+class AuditEventRing {
+
+  private final AuditEvent[] slots;
+  private final int mask;
+  private final AtomicLong claimed = new AtomicLong();
+  private final AtomicLongArray published;
+  private final LongAdder dropped = new LongAdder();
+  private volatile long consumed;
+
+  /**
+   * Creates a ring holding at least the requested number of events.
+   *
+   * @param capacity the minimum number of slots, rounded up to a power of two
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  AuditEventRing(int capacity) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw new IllegalArgumentException("Audit buffer size must be between 1 and 2^30.");
+    }
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.slots = new AuditEvent[size];
+    this.published = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      slots[i] = new AuditEvent();
+      published.set(i, -1L);
+    }
+    this.mask = size - 1;
+  }
+
+  /**
+   * Writes an event into the next free slot.
+   *
+   * @return true if the event was stored, false if the ring was full and the event was dropped
+   */
+  boolean offer(long timestamp, AuditEventType type, String accountId, String counterpartyId,
+    BigDecimal amount, String detail, BigDecimal creditedAmount, long rateVersion) {
+    long sequence;
+    do {
+      sequence = claimed.get();
+      if (sequence - consumed >= slots.length) {
+        dropped.increment();
+        return false;
+      }
+    } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+    int index = (int) sequence & mask;
+    slots[index].set(timestamp, type, accountId, counterpartyId, amount, detail, creditedAmount,
+      rateVersion);
+    published.lazySet(index, sequence);
+    return true;
+  }
+
+  /**
+   * Hands published events to the sink in sequence order. Must only be called from the single
+   * consumer thread; the event passed to the sink is only valid for the duration of the call.
+   * If the sink throws, the event it failed on counts as consumed and the exception propagates.
+   *
+   * @param sink     receives each drained event
+   * @param maxBatch the maximum number of events to drain
+   * @return the number of events drained
+   */
+  int drain(Consumer<AuditEvent> sink, int maxBatch) {
+    long sequence = consumed;
+    int count = 0;
+    try {
+      while (count < maxBatch) {
+        int index = (int) sequence & mask;
+        if (published.get(index) != sequence) {
+          break;
+        }
+        AuditEvent event = slots[index];
+        try {
+          sink.accept(event);
+        } finally {
+          event.clear();
+          sequence++;
+          count++;
+        }
+      }
+    } finally {
+      // an event the sink failed on is skipped rather than retried forever
+      consumed = sequence;
+    }
+    return count;
+  }
+
+  int capacity() {
+    return slots.length;
+  }
+
+  long droppedCount() {
+    return dropped.sum();
+  }
+}
@@ -0,0 +1,28 @@
+package com.dws.challenge.audit;
+
+/**
+ * Kinds of audit events emitted by the service.
+ * <p>
+ * Types flagged as sampled are high-volume, debug-level events; only a fraction of them is
+ * recorded, as configured by {@code audit.debug-sample-rate}.
+ */
+public enum AuditEventType {
+
+  ACCOUNT_CREATED(false),
+  ACCOUNT_RETRIEVED(true),
+  TRANSFER_REQUESTED(true),
+  TRANSFER_COMPLETED(false),
+  TRANSFER_REJECTED(false),
+  NOTIFICATIONS_SENT(true),
+  REQUEST_REJECTED(false);
+
+  private final boolean sampled;
+
+  AuditEventType(boolean sampled) {
+    this.sampled = sampled;
+  }
+
+  public boolean isSampled() {
+    return sampled;
+  }
+}
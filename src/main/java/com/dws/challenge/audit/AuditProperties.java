@@ -0,0 +1,24 @@
+package com.dws.challenge.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the audit event stream, bound from the {@code audit.*} properties.
+ *
+ * @param enabled         whether audit events are recorded at all
+ * @param directory       the directory the NDJSON audit files are written to
+ * @param bufferSize      the number of events the in-memory ring can hold before dropping
+ * @param maxFileSize     the size in bytes after which the active file is rotated
+ * @param maxFiles        the number of rotated files kept besides the active one
+ * @param debugSampleRate one in this many debug-level events is recorded
+ */
+@ConfigurationProperties(prefix = "audit")
+public record AuditProperties(
+  @DefaultValue("true") boolean enabled,
+  @DefaultValue("logs/audit") String directory,
+  @DefaultValue("8192") int bufferSize,
+  @DefaultValue("10485760") long maxFileSize,
+  @DefaultValue("5") int maxFiles,
+  @DefaultValue("100") int debugSampleRate) {
+}
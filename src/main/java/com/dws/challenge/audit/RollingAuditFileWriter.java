@@ -0,0 +1,102 @@
+package com.dws.challenge.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends NDJSON batches to {@code audit.ndjson}, rotating it to {@code audit.1.ndjson},
+ * {@code audit.2.ndjson}, ... once it grows past the configured size in bytes.
+ */
+class RollingAuditFileWriter implements Closeable {
+
+  static final String ACTIVE_FILE = "audit.ndjson";
+
+  private final Path directory;
+  private final long maxFileSize;
+  private final int maxFiles;
+
+  private OutputStream out;
+  private long size;
+
+  RollingAuditFileWriter(Path directory, long maxFileSize, int maxFiles) throws IOException {
+    this.directory = directory;
+    this.maxFileSize = maxFileSize;
+    this.maxFiles = maxFiles;
+    Files.createDirectories(directory);
+    open();
+  }
+
+  /**
+   * Writes a batch of complete NDJSON lines and flushes it, rotating first if needed.
+   *
+   * @param batch the lines to write, each terminated by a newline
+   * @throws IOException if the file cannot be written or rotated
+   */
+  void write(CharSequence batch) throws IOException {
+    byte[] bytes = batch.toString().getBytes(StandardCharsets.UTF_8);
+    if (size > 0 && size + bytes.length > maxFileSize) {
+      rotate();
+    }
+    out.write(bytes);
+    out.flush();
+    size += bytes.length;
+  }
+
+  /**
+   * Closes the active file, ignoring errors, and opens it again. Used to recover after a
+   * failed write or rotation left the writer in an unknown state.
+   *
+   * @throws IOException if the file cannot be opened
+   */
+  void reopen() throws IOException {
+    try {
+      close();
+    } catch (IOException ignored) {
+      // the stream is being replaced anyway
+    }
+    Files.createDirectories(directory);
+    open();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (out != null) {
+      OutputStream closing = out;
+      out = null;
+      closing.close();
+    }
+  }
+
+  private void open() throws IOException {
+    Path active = directory.resolve(ACTIVE_FILE);
+    out = Files.newOutputStream(active, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    size = Files.size(active);
+  }
+
+  private void rotate() throws IOException {
+    close();
+    Files.deleteIfExists(rotated(maxFiles));
+    for (int i = maxFiles - 1; i >= 1; i--) {
+      Path source = rotated(i);
+      if (Files.exists(source)) {
+        Files.move(source, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    if (maxFiles > 0) {
+      Files.move(directory.resolve(ACTIVE_FILE), rotated(1), StandardCopyOption.REPLACE_EXISTING);
+    } else {
+      Files.delete(directory.resolve(ACTIVE_FILE));
+    }
+    open();
+  }
+
+  private Path rotated(int index) {
+    return directory.resolve("audit." + index + ".ndjson");
+  }
+}
@@ -11,11 +11,14 @@ import lombok.Data;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 import java.util.concurrent.locks.ReentrantLock;
 
 @Data
 public class Account {
 
+  public static final String DEFAULT_CURRENCY = "EUR";
+
   @Schema(description = "Unique identifier for the account", example = "12345")
   @NotNull
   @NotEmpty
@@ -26,20 +29,34 @@ public class Account {
   @Min(value = 0, message = "Initial balance must be positive.")
   private BigDecimal balance;
 
+  @Schema(description = "ISO 4217 currency code of the balance", example = "EUR", defaultValue = DEFAULT_CURRENCY)
+  private final String currency;
+
   @JsonIgnore
   @Getter
   private final ReentrantLock lock = new ReentrantLock();
 
   public Account(String accountId) {
-    this.accountId = accountId;
-    this.balance = BigDecimal.ZERO;
+    this(accountId, BigDecimal.ZERO);
+  }
+
+  public Account(String accountId, BigDecimal balance) {
+    this(accountId, balance, DEFAULT_CURRENCY);
   }
 
+  /**
+   * Creates an account holding its balance in the given currency.
+   *
+   * @param currency the ISO 4217 currency code, or null for {@link #DEFAULT_CURRENCY}
+   * @throws IllegalArgumentException if the currency code is not a known ISO 4217 code
+   */
   @JsonCreator
   public Account(@JsonProperty("accountId") String accountId,
-    @JsonProperty("balance") BigDecimal balance) {
+    @JsonProperty("balance") BigDecimal balance,
+    @JsonProperty("currency") String currency) {
     this.accountId = accountId;
     this.balance = balance;
+    this.currency = currency == null ? DEFAULT_CURRENCY : Currency.getInstance(currency).getCurrencyCode();
   }
 
 }
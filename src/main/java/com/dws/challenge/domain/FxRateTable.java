@@ -0,0 +1,80 @@
+package com.dws.challenge.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable, versioned snapshot of FX rates.
+ * <p>
+ * Rates are keyed by source and target currency code; a rate converts one unit of the source
+ * currency into the target currency. Only pairs that were supplied are available, inverse
+ * rates are not derived.
+ */
+@Getter
+public final class FxRateTable {
+
+  public static final FxRateTable EMPTY = new FxRateTable(0L, Map.of());
+
+  @Schema(description = "Version of the rate table, incremented on every update", example = "3")
+  private final long version;
+
+  @Schema(description = "Rates by source and target currency code", example = "{\"EUR\":{\"USD\":1.08}}")
+  private final Map<String, Map<String, BigDecimal>> rates;
+
+  /**
+   * Creates a table holding a validated copy of the given rates.
+   *
+   * @param version the version of this table
+   * @param rates   the rates by source and target currency code
+   * @throws IllegalArgumentException if a currency code is unknown or a rate is not positive
+   */
+  public FxRateTable(long version, Map<String, Map<String, BigDecimal>> rates) {
+    this.version = version;
+    this.rates = copyOf(rates);
+  }
+
+  /**
+   * Returns the rate converting one unit of {@code from} into {@code to}.
+   *
+   * @param from the source currency code
+   * @param to   the target currency code
+   * @return the rate, or null if the table has no rate for this pair
+   */
+  public BigDecimal getRate(String from, String to) {
+    Map<String, BigDecimal> targets = rates.get(from);
+    return targets == null ? null : targets.get(to);
+  }
+
+  private static Map<String, Map<String, BigDecimal>> copyOf(Map<String, Map<String, BigDecimal>> rates) {
+    Map<String, Map<String, BigDecimal>> copy = new HashMap<>();
+    rates.forEach((from, targets) -> {
+      requireKnownCurrency(from);
+      if (targets == null) {
+        throw new IllegalArgumentException("FX rates from " + from + " must not be null.");
+      }
+      Map<String, BigDecimal> targetCopy = new HashMap<>();
+      targets.forEach((to, rate) -> {
+        requireKnownCurrency(to);
+        if (rate == null || rate.signum() <= 0) {
+          throw new IllegalArgumentException("FX rate from " + from + " to " + to + " must be positive.");
+        }
+        targetCopy.put(to, rate);
+      });
+      copy.put(from, Map.copyOf(targetCopy));
+    });
+    return Map.copyOf(copy);
+  }
+
+  private static void requireKnownCurrency(String code) {
+    try {
+      Currency.getInstance(code);
+    } catch (IllegalArgumentException ex) {
+      throw new IllegalArgumentException("Unknown currency code " + code + ".");
+    }
+  }
+}
@@ -18,7 +18,7 @@ public class TransferRequest {
     @NotNull
     private String accountToId;
 
-    @Schema(description = "Amount to transfer", example = "100.00")
+    @Schema(description = "Amount to transfer, in the currency of the source account", example = "100.00")
     @NotNull
     @Min(value = 1, message = "Transfer amount must be positive.")
     private BigDecimal amount;
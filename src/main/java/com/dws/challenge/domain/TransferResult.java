@@ -0,0 +1,29 @@
+package com.dws.challenge.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class TransferResult {
+
+    @Schema(description = "Amount debited from the source account", example = "100.00")
+    private final BigDecimal debitedAmount;
+
+    @Schema(description = "Currency of the source account", example = "EUR")
+    private final String debitedCurrency;
+
+    @Schema(description = "Amount credited to the destination account", example = "108.00")
+    private final BigDecimal creditedAmount;
+
+    @Schema(description = "Currency of the destination account", example = "USD")
+    private final String creditedCurrency;
+
+    @Schema(description = "FX rate applied, 1 for same-currency transfers", example = "1.08")
+    private final BigDecimal rate;
+
+    @Schema(description = "Version of the FX rate table the rate was taken from, null for same-currency transfers",
+            example = "3")
+    private final Long rateVersion;
+}
@@ -1,24 +1,28 @@
 package com.dws.challenge.exception;
 
-import lombok.extern.slf4j.Slf4j;
+import com.dws.challenge.audit.AuditEventPublisher;
+import com.dws.challenge.audit.AuditEventType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 @RestControllerAdvice
-@Slf4j
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final AuditEventPublisher auditEventPublisher;
+
     @ExceptionHandler(DuplicateAccountIdException.class)
     public ResponseEntity<String> handleDuplicateAccountIdException(DuplicateAccountIdException ex) {
-        log.error("Handled DuplicateAccountIdException: {}", ex.getMessage());
+        auditEventPublisher.publish(AuditEventType.REQUEST_REJECTED, null, null, null, ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException ex) {
-        log.error("Handled IllegalArgumentException: {}", ex.getMessage());
+        auditEventPublisher.publish(AuditEventType.REQUEST_REJECTED, null, null, null, ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
 }
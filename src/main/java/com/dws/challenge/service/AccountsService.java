@@ -1,24 +1,30 @@
 package com.dws.challenge.service;
 
+import com.dws.challenge.audit.AuditEventPublisher;
+import com.dws.challenge.audit.AuditEventType;
 import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.FxRateTable;
+import com.dws.challenge.domain.TransferResult;
 import com.dws.challenge.exception.DuplicateAccountIdException;
 import com.dws.challenge.repository.AccountsRepository;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
 import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class AccountsService {
 
   @Getter
   private final AccountsRepository accountsRepository;
   private final NotificationService notificationService;
+  private final FxRateService fxRateService;
+  private final AuditEventPublisher auditEventPublisher;
 
 
   /**
@@ -28,8 +34,9 @@ public class AccountsService {
    * @throws DuplicateAccountIdException if an account with the same ID already exists
    */
   public void createAccount(Account account) {
-    log.info("Creating account with ID: {}", account.getAccountId());
     this.accountsRepository.createAccount(account);
+    auditEventPublisher.publish(AuditEventType.ACCOUNT_CREATED, account.getAccountId(), null,
+      account.getBalance(), null);
   }
 
 
@@ -40,58 +47,119 @@ public class AccountsService {
    * @return the Account object if found, or null if not found
    */
   public Account getAccount(String accountId) {
-    log.info("Retrieving account with ID: {}", accountId);
+    auditEventPublisher.publish(AuditEventType.ACCOUNT_RETRIEVED, accountId, null, null, null);
     return this.accountsRepository.getAccount(accountId);
   }
 
 
   /**
-   * Transfers the specified amount from one account to another.
+   * Transfers the specified amount from one account to another. If the accounts hold different
+   * currencies, the amount is converted at the rate of the current FX rate table.
    *
    * @param fromId   the ID of the account to transfer from
    * @param toId     the ID of the account to transfer to
-   * @param amount   the amount to transfer
-   * @throws IllegalArgumentException if the transfer is invalid (e.g., same account, null amount, insufficient funds)
+   * @param amount   the amount to transfer, in the currency of the source account
+   * @return the amounts debited and credited, with the FX rate and rate table version used
+   * @throws IllegalArgumentException if the transfer is invalid (e.g., same account, null amount, insufficient funds,
+   *                                  amount finer than the source currency's minor unit, no FX rate for the
+   *                                  currency pair, amount converts to zero)
    */
-  public void transfer(String fromId, String toId, BigDecimal amount) {
+  public TransferResult transfer(String fromId, String toId, BigDecimal amount) {
 
-    log.info("Initiating transfer of {} from {} to {}", amount, fromId, toId);
+    auditEventPublisher.publish(AuditEventType.TRANSFER_REQUESTED, fromId, toId, amount, null);
 
     if (fromId.equals(toId)) {
-      log.error("Transfer failed: source and destination account are the same ({})", fromId);
-      throw new IllegalArgumentException("Cannot transfer to the same account.");
+      throw rejectTransfer(fromId, toId, amount, "Cannot transfer to the same account.");
     }
 
     Objects.requireNonNull(amount, "Transfer amount must not be null.");
 
     if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-      log.error("Transfer failed: amount must be positive. Provided: {}", amount);
-      throw new IllegalArgumentException("Transfer amount must be positive.");
+      throw rejectTransfer(fromId, toId, amount, "Transfer amount must be positive.");
     }
 
     Account from = accountsRepository.getAccount(fromId);
     Account to = accountsRepository.getAccount(toId);
 
     if (from == null || to == null) {
-      log.error("Transfer failed: Account not found. From: {}, To: {}", fromId, toId);
-      throw new IllegalArgumentException("Account not found.");
+      throw rejectTransfer(fromId, toId, amount, "Account not found.");
+    }
+
+    if (exceedsMinorUnit(amount, from.getCurrency())) {
+      throw rejectTransfer(fromId, toId, amount,
+        "Transfer amount has more decimal places than " + from.getCurrency() + " supports.");
     }
 
     if (from.getBalance().compareTo(amount) < 0) {
-      log.error("Transfer failed: Insufficient funds in account {}", fromId);
-      throw new IllegalArgumentException("Insufficient funds.");
+      throw rejectTransfer(fromId, toId, amount, "Insufficient funds.");
+    }
+
+    BigDecimal credited = amount;
+    BigDecimal rate = BigDecimal.ONE;
+    Long rateVersion = null;
+
+    if (!from.getCurrency().equals(to.getCurrency())) {
+      FxRateTable rates = fxRateService.getRates();
+      rate = rates.getRate(from.getCurrency(), to.getCurrency());
+      if (rate == null) {
+        throw rejectTransfer(fromId, toId, amount,
+          "No FX rate available from " + from.getCurrency() + " to " + to.getCurrency() + ".");
+      }
+      rateVersion = rates.getVersion();
+      credited = convert(amount, rate, to.getCurrency());
+      if (credited.signum() <= 0) {
+        throw rejectTransfer(fromId, toId, amount,
+          "Transfer amount is too small to convert from " + from.getCurrency() + " to " + to.getCurrency() + ".");
+      }
     }
 
     Account first = fromId.compareTo(toId) < 0 ? from : to;
     Account second = fromId.compareTo(toId) < 0 ? to : from;
+    BigDecimal creditedAmount = credited;
 
     lockBothAccounts(first, second, () -> {
       from.setBalance(from.getBalance().subtract(amount));
-      to.setBalance(to.getBalance().add(amount));
-      log.info("Transfer completed: {} from {} to {}", amount, fromId, toId);
+      to.setBalance(to.getBalance().add(creditedAmount));
     });
+    if (rateVersion == null) {
+      auditEventPublisher.publish(AuditEventType.TRANSFER_COMPLETED, fromId, toId, amount, null);
+    } else {
+      auditEventPublisher.publish(AuditEventType.TRANSFER_COMPLETED, fromId, toId, amount, null,
+        creditedAmount, rateVersion);
+    }
+
+    notifyTransfer(from, to, amount, creditedAmount, fromId, toId);
+
+    return new TransferResult(amount, from.getCurrency(), creditedAmount, to.getCurrency(), rate, rateVersion);
+  }
+
+
+  /**
+   * Checks whether an amount has more decimal places than the currency's minor unit can hold.
+   *
+   * @param amount   the amount to check
+   * @param currency the ISO 4217 code of the currency the amount is in
+   * @return true if the amount cannot be represented in the currency
+   */
+  private boolean exceedsMinorUnit(BigDecimal amount, String currency) {
+    int fractionDigits = Currency.getInstance(currency).getDefaultFractionDigits();
+    return fractionDigits >= 0 && amount.scale() > fractionDigits
+      && amount.stripTrailingZeros().scale() > fractionDigits;
+  }
 
-    notifyTransfer(from, to, amount, fromId, toId);
+
+  /**
+   * Converts an amount at the given rate, rounded to the default fraction digits of the target currency.
+   *
+   * @param amount         the amount in the source currency
+   * @param rate           the rate converting one unit of the source currency into the target currency
+   * @param targetCurrency the ISO 4217 code of the target currency
+   * @return the converted amount
+   */
+  private BigDecimal convert(BigDecimal amount, BigDecimal rate, String targetCurrency) {
+    BigDecimal converted = amount.multiply(rate);
+    int fractionDigits = Currency.getInstance(targetCurrency).getDefaultFractionDigits();
+    return fractionDigits < 0 ? converted : converted.setScale(fractionDigits, RoundingMode.HALF_EVEN);
   }
 
 
@@ -119,16 +187,35 @@ public class AccountsService {
   /**
    * Notifies both accounts about the transfer.
    *
-   * @param from   the account transferring the amount
-   * @param to     the account receiving the amount
-   * @param amount the amount transferred
-   * @param fromId the ID of the account transferring the amount
-   * @param toId   the ID of the account receiving the amount
+   * @param from     the account transferring the amount
+   * @param to       the account receiving the amount
+   * @param amount   the amount debited, in the currency of the source account
+   * @param credited the amount credited, in the currency of the destination account
+   * @param fromId   the ID of the account transferring the amount
+   * @param toId     the ID of the account receiving the amount
    */
-  private void notifyTransfer(Account from, Account to, BigDecimal amount, String fromId, String toId) {
+  private void notifyTransfer(Account from, Account to, BigDecimal amount, BigDecimal credited,
+    String fromId, String toId) {
+
+    notificationService.notifyAboutTransfer(from,
+      "Transferred " + amount + " " + from.getCurrency() + " to account " + toId);
+    notificationService.notifyAboutTransfer(to,
+      "Received " + credited + " " + to.getCurrency() + " from account " + fromId);
+    auditEventPublisher.publish(AuditEventType.NOTIFICATIONS_SENT, fromId, toId, amount, null);
+  }
+
 
-    notificationService.notifyAboutTransfer(from, "Transferred " + amount + " to account " + toId);
-    notificationService.notifyAboutTransfer(to, "Received " + amount + " from account " + fromId);
-    log.info("Notifications sent for transfer of {} from {} to {}", amount, fromId, toId);
+  /**
+   * Records a rejected transfer and builds the exception to throw for it.
+   *
+   * @param fromId the ID of the account to transfer from
+   * @param toId   the ID of the account to transfer to
+   * @param amount the requested amount
+   * @param reason the rejection message
+   * @return the exception the caller should throw
+   */
+  private IllegalArgumentException rejectTransfer(String fromId, String toId, BigDecimal amount, String reason) {
+    auditEventPublisher.publish(AuditEventType.TRANSFER_REJECTED, fromId, toId, amount, reason);
+    return new IllegalArgumentException(reason);
   }
 }
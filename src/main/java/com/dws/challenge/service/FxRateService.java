@@ -0,0 +1,43 @@
+package com.dws.challenge.service;
+
+import com.dws.challenge.domain.FxRateTable;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Holds the current FX rate table.
+ * <p>
+ * The table is immutable and replaced as a whole on every update, so readers only perform a
+ * volatile read and never lock. Updates are serialized so that versions increase by one.
+ */
+@Service
+public class FxRateService {
+
+  private volatile FxRateTable current = FxRateTable.EMPTY;
+
+
+  /**
+   * Returns the current FX rate table.
+   *
+   * @return the latest published table, never null
+   */
+  public FxRateTable getRates() {
+    return current;
+  }
+
+
+  /**
+   * Replaces the current rates with a new table version.
+   *
+   * @param rates the rates by source and target currency code
+   * @return the newly published table
+   * @throws IllegalArgumentException if a currency code is unknown or a rate is not positive
+   */
+  public synchronized FxRateTable updateRates(Map<String, Map<String, BigDecimal>> rates) {
+    FxRateTable next = new FxRateTable(current.getVersion() + 1, rates);
+    current = next;
+    return next;
+  }
+}
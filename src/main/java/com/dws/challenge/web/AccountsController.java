@@ -2,6 +2,7 @@ package com.dws.challenge.web;
 
 import com.dws.challenge.domain.Account;
 import com.dws.challenge.domain.TransferRequest;
+import com.dws.challenge.domain.TransferResult;
 import com.dws.challenge.exception.DuplicateAccountIdException;
 import com.dws.challenge.service.AccountsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,7 +10,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,7 +19,6 @@ import org.springframework.web.bind.annotation.*;
 
 @RestController
 @RequestMapping("/v1/accounts")
-@Slf4j
 @RequiredArgsConstructor
 public class AccountsController {
 
@@ -33,8 +32,6 @@ public class AccountsController {
   })
   @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<Object> createAccount(@RequestBody @Valid Account account) {
-    log.info("Creating account {}", account);
-
     try {
       this.accountsService.createAccount(account);
     } catch (DuplicateAccountIdException daie) {
@@ -52,21 +49,21 @@ public class AccountsController {
   })
   @GetMapping(path = "/{accountId}")
   public Account getAccount(@PathVariable String accountId) {
-    log.info("Retrieving account for id {}", accountId);
     return this.accountsService.getAccount(accountId);
   }
 
 
   @Operation(summary = "Transfer funds between accounts")
   @ApiResponses(value = {
-          @ApiResponse(responseCode = "200", description = "Transfer successful"),
-          @ApiResponse(responseCode = "400", description = "Invalid transfer request")
+          @ApiResponse(responseCode = "200", description = "Transfer successful, amounts and FX rate used returned"),
+          @ApiResponse(responseCode = "400", description = "Invalid transfer request or no FX rate for the currency pair")
   })
   @PostMapping(path = "/transfer", consumes = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<Object> transfer(@RequestBody @Valid TransferRequest request) {
     try {
-      accountsService.transfer(request.getAccountFromId(), request.getAccountToId(), request.getAmount());
-      return new ResponseEntity<>(HttpStatus.OK);
+      TransferResult result =
+        accountsService.transfer(request.getAccountFromId(), request.getAccountToId(), request.getAmount());
+      return new ResponseEntity<>(result, HttpStatus.OK);
     } catch (IllegalArgumentException ex) {
       return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
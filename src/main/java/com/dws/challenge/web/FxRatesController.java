@@ -0,0 +1,44 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.domain.FxRateTable;
+import com.dws.challenge.service.FxRateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+
+@RestController
+@RequestMapping("/v1/fx/rates")
+@RequiredArgsConstructor
+public class FxRatesController {
+
+  private final FxRateService fxRateService;
+
+
+  @Operation(summary = "Get the current FX rate table")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Current rates and their version")
+  })
+  @GetMapping
+  public FxRateTable getRates() {
+    return this.fxRateService.getRates();
+  }
+
+
+  @Operation(summary = "Replace the FX rate table")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "Rates replaced, new version returned"),
+          @ApiResponse(responseCode = "400", description = "Unknown currency code or non-positive rate")
+  })
+  @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+  public FxRateTable updateRates(@RequestBody Map<String, Map<String, BigDecimal>> rates) {
+    return this.fxRateService.updateRates(rates);
+  }
+
+}
@@ -0,0 +1,73 @@
+package com.dws.challenge.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditEventPublisherTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writesEventsAsNdjson() throws Exception {
+        AuditEventPublisher publisher = new AuditEventPublisher(properties(true, 1024L * 1024L, 1));
+        publisher.publish(AuditEventType.TRANSFER_COMPLETED, "Id-1", "Id-2", new BigDecimal("200.50"), null);
+        publisher.publish(AuditEventType.TRANSFER_REJECTED, "Id-\"1\"", "Id-2", null, "Insufficient funds.");
+        publisher.destroy();
+
+        List<String> lines = Files.readAllLines(directory.resolve(RollingAuditFileWriter.ACTIVE_FILE));
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0)).contains("\"type\":\"TRANSFER_COMPLETED\"", "\"account\":\"Id-1\"",
+                "\"counterparty\":\"Id-2\"", "\"amount\":200.50");
+        assertThat(lines.get(1)).contains("\"account\":\"Id-\\\"1\\\"\"", "\"detail\":\"Insufficient funds.\"")
+                .doesNotContain("amount", "rateVersion");
+    }
+
+    @Test
+    void writesCreditedAmountAndRateVersionForConversions() throws Exception {
+        AuditEventPublisher publisher = new AuditEventPublisher(properties(true, 1024L * 1024L, 1));
+        publisher.publish(AuditEventType.TRANSFER_COMPLETED, "Id-1", "Id-2", new BigDecimal("100"), null,
+                new BigDecimal("108.25"), 3L);
+        publisher.destroy();
+
+        List<String> lines = Files.readAllLines(directory.resolve(RollingAuditFileWriter.ACTIVE_FILE));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\"amount\":100", "\"creditedAmount\":108.25", "\"rateVersion\":3");
+    }
+
+    @Test
+    void samplesDebugLevelEvents() throws Exception {
+        AuditEventPublisher publisher = new AuditEventPublisher(
+                new AuditProperties(true, directory.toString(), 1024, 1024L * 1024L, 1, Integer.MAX_VALUE));
+        for (int i = 0; i < 10; i++) {
+            publisher.publish(AuditEventType.ACCOUNT_RETRIEVED, "Id-1", null, null, null);
+            publisher.publish(AuditEventType.TRANSFER_REQUESTED, "Id-1", "Id-2", BigDecimal.ONE, null);
+            publisher.publish(AuditEventType.NOTIFICATIONS_SENT, "Id-1", "Id-2", BigDecimal.ONE, null);
+            publisher.publish(AuditEventType.TRANSFER_COMPLETED, "Id-1", "Id-2", BigDecimal.ONE, null);
+        }
+        publisher.destroy();
+
+        List<String> lines = Files.readAllLines(directory.resolve(RollingAuditFileWriter.ACTIVE_FILE));
+        assertThat(lines).hasSize(10).allMatch(line -> line.contains("\"type\":\"TRANSFER_COMPLETED\""));
+    }
+
+    @Test
+    void disabledPublisherWritesNothing() throws Exception {
+        AuditEventPublisher publisher = new AuditEventPublisher(properties(false, 1024L, 1));
+        publisher.publish(AuditEventType.ACCOUNT_CREATED, "Id-1", null, null, null);
+        publisher.destroy();
+
+        assertThat(Files.exists(directory.resolve(RollingAuditFileWriter.ACTIVE_FILE))).isFalse();
+    }
+
+    private AuditProperties properties(boolean enabled, long maxFileSize, int maxFiles) {
+        return new AuditProperties(enabled, directory.toString(), 64, maxFileSize, maxFiles, 1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.dws.challenge.audit;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AuditEventRingTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new AuditEventRing(5).capacity()).isEqualTo(8);
+        assertThat(new AuditEventRing(8).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditEventRing(0));
+    }
+
+    @Test
+    void drainsEventsInPublishOrder() {
+        AuditEventRing ring = new AuditEventRing(4);
+        ring.offer(1L, AuditEventType.TRANSFER_COMPLETED, "Id-1", "Id-2", new BigDecimal("10"), null, null, -1L);
+        ring.offer(2L, AuditEventType.TRANSFER_REJECTED, "Id-1", "Id-3", null, "Insufficient funds.", null, -1L);
+
+        List<String> drained = new ArrayList<>();
+        int count = ring.drain(event -> drained.add(event.getType() + ":" + event.getCounterpartyId()), 10);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(drained).containsExactly("TRANSFER_COMPLETED:Id-2", "TRANSFER_REJECTED:Id-3");
+        assertThat(ring.drain(event -> drained.add("unexpected"), 10)).isZero();
+    }
+
+    @Test
+    void dropsEventsWhenFull() {
+        AuditEventRing ring = new AuditEventRing(2);
+
+        assertThat(ring.offer(1L, AuditEventType.ACCOUNT_CREATED, "Id-1", null, null, null, null, -1L)).isTrue();
+        assertThat(ring.offer(2L, AuditEventType.ACCOUNT_CREATED, "Id-2", null, null, null, null, -1L)).isTrue();
+        assertThat(ring.offer(3L, AuditEventType.ACCOUNT_CREATED, "Id-3", null, null, null, null, -1L)).isFalse();
+        assertThat(ring.droppedCount()).isEqualTo(1);
+
+        ring.drain(event -> { }, 1);
+        assertThat(ring.offer(4L, AuditEventType.ACCOUNT_CREATED, "Id-4", null, null, null, null, -1L)).isTrue();
+    }
+
+    @Test
+    void skipsEventTheSinkFailsOn() {
+        AuditEventRing ring = new AuditEventRing(4);
+        ring.offer(1L, AuditEventType.ACCOUNT_CREATED, "Id-1", null, null, null, null, -1L);
+        ring.offer(2L, AuditEventType.ACCOUNT_CREATED, "Id-2", null, null, null, null, -1L);
+
+        assertThrows(IllegalStateException.class, () -> ring.drain(event -> {
+            throw new IllegalStateException("sink failure");
+        }, 10));
+
+        List<String> drained = new ArrayList<>();
+        ring.drain(event -> drained.add(event.getAccountId()), 10);
+        assertThat(drained).containsExactly("Id-2");
+    }
+}
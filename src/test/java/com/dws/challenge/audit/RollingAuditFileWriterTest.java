@@ -0,0 +1,70 @@
+package com.dws.challenge.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RollingAuditFileWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rotatesFilesPastMaxSize() throws Exception {
+        try (RollingAuditFileWriter writer = new RollingAuditFileWriter(directory, 1L, 1)) {
+            writer.write("{\"account\":\"Id-1\"}\n");
+            writer.write("{\"account\":\"Id-2\"}\n");
+        }
+
+        assertThat(Files.readString(directory.resolve("audit.1.ndjson"))).contains("Id-1");
+        assertThat(Files.readString(directory.resolve(RollingAuditFileWriter.ACTIVE_FILE))).contains("Id-2");
+    }
+
+    @Test
+    void keepsOnlyMaxFilesRotatedFiles() throws Exception {
+        try (RollingAuditFileWriter writer = new RollingAuditFileWriter(directory, 1L, 2)) {
+            writer.write("1\n");
+            writer.write("2\n");
+            writer.write("3\n");
+            writer.write("4\n");
+        }
+
+        assertThat(Files.readString(directory.resolve("audit.2.ndjson"))).isEqualTo("2\n");
+        assertThat(Files.readString(directory.resolve("audit.1.ndjson"))).isEqualTo("3\n");
+        assertThat(Files.exists(directory.resolve("audit.3.ndjson"))).isFalse();
+    }
+
+    @Test
+    void limitsFileSizeInEncodedBytes() throws Exception {
+        String line = "{\"account\":\"Konto-\u00e4\u00f6\u00fc\"}\n";
+        int lineBytes = line.getBytes(StandardCharsets.UTF_8).length;
+
+        // two lines fit the limit when counted in chars, but not in UTF-8 bytes
+        long maxFileSize = 2L * line.length() + 1;
+
+        try (RollingAuditFileWriter writer = new RollingAuditFileWriter(directory, maxFileSize, 1)) {
+            writer.write(line);
+            writer.write(line);
+        }
+
+        assertThat(2L * lineBytes).isGreaterThan(maxFileSize);
+        assertThat(Files.size(directory.resolve("audit.1.ndjson"))).isEqualTo(lineBytes);
+        assertThat(Files.size(directory.resolve(RollingAuditFileWriter.ACTIVE_FILE))).isEqualTo(lineBytes);
+    }
+
+    @Test
+    void reopenContinuesAppendingToActiveFile() throws Exception {
+        try (RollingAuditFileWriter writer = new RollingAuditFileWriter(directory, 1024L, 1)) {
+            writer.write("1\n");
+            writer.reopen();
+            writer.write("2\n");
+        }
+
+        assertThat(Files.readString(directory.resolve(RollingAuditFileWriter.ACTIVE_FILE))).isEqualTo("1\n2\n");
+    }
+}
@@ -1,19 +1,30 @@
 package com.dws.challenge.service;
 
 
+import com.dws.challenge.audit.AuditEventPublisher;
+import com.dws.challenge.audit.AuditEventType;
 import com.dws.challenge.domain.Account;
+import com.dws.challenge.domain.FxRateTable;
+import com.dws.challenge.domain.TransferResult;
 import com.dws.challenge.exception.DuplicateAccountIdException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(SpringExtension.class)
 @SpringBootTest
@@ -22,6 +33,12 @@ class AccountsServiceTest {
     @Autowired
     private AccountsService accountsService;
 
+    @Autowired
+    private FxRateService fxRateService;
+
+    @MockitoBean
+    private AuditEventPublisher auditEventPublisher;
+
     @BeforeEach
     void setUp() {
         accountsService.getAccountsRepository().clearAccounts();
@@ -34,6 +51,8 @@ class AccountsServiceTest {
         this.accountsService.createAccount(account);
 
         assertThat(this.accountsService.getAccount("Id-123")).isEqualTo(account);
+        verify(auditEventPublisher).publish(AuditEventType.ACCOUNT_CREATED, "Id-123", null, account.getBalance(), null);
+        verify(auditEventPublisher).publish(AuditEventType.ACCOUNT_RETRIEVED, "Id-123", null, null, null);
     }
 
     @Test
@@ -60,10 +79,14 @@ class AccountsServiceTest {
         accountsService.createAccount(from);
         accountsService.createAccount(to);
 
-        accountsService.transfer("Id-1", "Id-2", new BigDecimal("200"));
+        BigDecimal amount = new BigDecimal("200");
+        accountsService.transfer("Id-1", "Id-2", amount);
 
         assertThat(accountsService.getAccount("Id-1").getBalance()).isEqualByComparingTo("800");
         assertThat(accountsService.getAccount("Id-2").getBalance()).isEqualByComparingTo("700");
+        verify(auditEventPublisher).publish(AuditEventType.TRANSFER_REQUESTED, "Id-1", "Id-2", amount, null);
+        verify(auditEventPublisher).publish(AuditEventType.TRANSFER_COMPLETED, "Id-1", "Id-2", amount, null);
+        verify(auditEventPublisher).publish(AuditEventType.NOTIFICATIONS_SENT, "Id-1", "Id-2", amount, null);
     }
 
     @Test
@@ -78,6 +101,8 @@ class AccountsServiceTest {
         } catch (IllegalArgumentException ex) {
             assertThat(ex.getMessage()).isEqualTo("Cannot transfer to the same account.");
         }
+        verify(auditEventPublisher).publish(eq(AuditEventType.TRANSFER_REJECTED), eq("Id-1"), eq("Id-1"), any(),
+                eq("Cannot transfer to the same account."));
     }
 
     @Test
@@ -106,12 +131,16 @@ class AccountsServiceTest {
         accountsService.createAccount(from);
         accountsService.createAccount(to);
 
+        BigDecimal amount = new BigDecimal("200");
         try {
-            accountsService.transfer("Id-1", "Id-2", new BigDecimal("200"));
+            accountsService.transfer("Id-1", "Id-2", amount);
             fail("Should have failed on insufficient funds");
         } catch (IllegalArgumentException ex) {
             assertThat(ex.getMessage()).isEqualTo("Insufficient funds.");
         }
+        verify(auditEventPublisher).publish(AuditEventType.TRANSFER_REJECTED, "Id-1", "Id-2", amount,
+                "Insufficient funds.");
+        verify(auditEventPublisher, never()).publish(eq(AuditEventType.TRANSFER_COMPLETED), any(), any(), any(), any());
     }
 
     @Test
@@ -127,4 +156,103 @@ class AccountsServiceTest {
             assertThat(ex.getMessage()).isEqualTo("Account not found.");
         }
     }
+
+    @Test
+    void transferSameCurrencyUsesNoRate() {
+        accountsService.createAccount(new Account("Id-1", new BigDecimal("1000")));
+        accountsService.createAccount(new Account("Id-2", new BigDecimal("500")));
+
+        BigDecimal amount = new BigDecimal("200");
+        TransferResult result = accountsService.transfer("Id-1", "Id-2", amount);
+
+        assertThat(result.getRate()).isEqualByComparingTo("1");
+        assertThat(result.getRateVersion()).isNull();
+        assertThat(result.getCreditedAmount()).isEqualByComparingTo("200");
+        verify(auditEventPublisher).publish(AuditEventType.TRANSFER_COMPLETED, "Id-1", "Id-2", amount, null);
+        verify(auditEventPublisher, never()).publish(eq(AuditEventType.TRANSFER_COMPLETED), any(), any(), any(), any(),
+                any(), anyLong());
+    }
+
+    @Test
+    void transferConvertsBetweenCurrencies() {
+        FxRateTable rates = fxRateService.updateRates(Map.of("EUR", Map.of("USD", new BigDecimal("1.0825"))));
+        accountsService.createAccount(new Account("Id-1", new BigDecimal("1000"), "EUR"));
+        accountsService.createAccount(new Account("Id-2", new BigDecimal("500"), "USD"));
+
+        BigDecimal amount = new BigDecimal("100");
+        TransferResult result = accountsService.transfer("Id-1", "Id-2", amount);
+
+        verify(auditEventPublisher).publish(AuditEventType.TRANSFER_COMPLETED, "Id-1", "Id-2", amount, null,
+                new BigDecimal("108.25"), rates.getVersion());
+        assertThat(result.getCreditedAmount()).isEqualTo(new BigDecimal("108.25"));
+        assertThat(result.getRateVersion()).isEqualTo(rates.getVersion());
+        assertThat(accountsService.getAccount("Id-1").getBalance()).isEqualByComparingTo("900");
+        assertThat(accountsService.getAccount("Id-2").getBalance()).isEqualByComparingTo("608.25");
+    }
+
+    @Test
+    void transferFailsWithoutFxRate() {
+        fxRateService.updateRates(Map.of("EUR", Map.of("USD", new BigDecimal("1.08"))));
+        accountsService.createAccount(new Account("Id-1", new BigDecimal("1000"), "USD"));
+        accountsService.createAccount(new Account("Id-2", new BigDecimal("500"), "EUR"));
+
+        try {
+            accountsService.transfer("Id-1", "Id-2", new BigDecimal("100"));
+            fail("Should have failed without an FX rate for the currency pair");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage()).isEqualTo("No FX rate available from USD to EUR.");
+        }
+        assertThat(accountsService.getAccount("Id-1").getBalance()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    void transferFailsWhenConvertedAmountRoundsToZero() {
+        fxRateService.updateRates(Map.of("IDR", Map.of("USD", new BigDecimal("0.00006"))));
+        accountsService.createAccount(new Account("Id-1", new BigDecimal("1000"), "IDR"));
+        accountsService.createAccount(new Account("Id-2", new BigDecimal("500"), "USD"));
+
+        try {
+            accountsService.transfer("Id-1", "Id-2", new BigDecimal("1"));
+            fail("Should have failed when the converted amount rounds to zero");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage()).isEqualTo("Transfer amount is too small to convert from IDR to USD.");
+        }
+        assertThat(accountsService.getAccount("Id-1").getBalance()).isEqualByComparingTo("1000");
+        assertThat(accountsService.getAccount("Id-2").getBalance()).isEqualByComparingTo("500");
+    }
+
+    @Test
+    void transferFailsOnAmountFinerThanSourceCurrency() {
+        accountsService.createAccount(new Account("Id-1", new BigDecimal("1000"), "EUR"));
+        accountsService.createAccount(new Account("Id-2", new BigDecimal("1000"), "JPY"));
+        accountsService.createAccount(new Account("Id-3", new BigDecimal("1000"), "JPY"));
+
+        try {
+            accountsService.transfer("Id-1", "Id-2", new BigDecimal("1.005"));
+            fail("Should have failed on an amount with more decimals than EUR supports");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage()).isEqualTo("Transfer amount has more decimal places than EUR supports.");
+        }
+
+        try {
+            accountsService.transfer("Id-2", "Id-3", new BigDecimal("150.5"));
+            fail("Should have failed on an amount with more decimals than JPY supports");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage()).isEqualTo("Transfer amount has more decimal places than JPY supports.");
+        }
+
+        assertThat(accountsService.getAccount("Id-1").getBalance()).isEqualByComparingTo("1000");
+        assertThat(accountsService.getAccount("Id-2").getBalance()).isEqualByComparingTo("1000");
+        assertThat(accountsService.getAccount("Id-3").getBalance()).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    void transferAcceptsTrailingZerosBeyondMinorUnit() {
+        accountsService.createAccount(new Account("Id-1", new BigDecimal("1000"), "JPY"));
+        accountsService.createAccount(new Account("Id-2", new BigDecimal("1000"), "JPY"));
+
+        accountsService.transfer("Id-1", "Id-2", new BigDecimal("150.00"));
+
+        assertThat(accountsService.getAccount("Id-2").getBalance()).isEqualByComparingTo("1150");
+    }
 }
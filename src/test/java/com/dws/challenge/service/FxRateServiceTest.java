@@ -0,0 +1,78 @@
+package com.dws.challenge.service;
+
+import com.dws.challenge.domain.FxRateTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+class FxRateServiceTest {
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Test
+    void updateRatesIncrementsVersion() {
+        long previous = fxRateService.getRates().getVersion();
+
+        FxRateTable updated = fxRateService.updateRates(Map.of("EUR", Map.of("GBP", new BigDecimal("0.86"))));
+
+        assertThat(updated.getVersion()).isEqualTo(previous + 1);
+        assertThat(fxRateService.getRates()).isSameAs(updated);
+        assertThat(updated.getRate("EUR", "GBP")).isEqualByComparingTo("0.86");
+        assertThat(updated.getRate("GBP", "EUR")).isNull();
+    }
+
+    @Test
+    void updateRatesFailsOnUnknownCurrency() {
+        assertUpdateFails(Map.of("EUR", Map.of("XYZ", new BigDecimal("1.5"))), "Unknown currency code XYZ.");
+    }
+
+    @Test
+    void updateRatesFailsOnZeroRate() {
+        assertUpdateFails(Map.of("EUR", Map.of("USD", BigDecimal.ZERO)), "FX rate from EUR to USD must be positive.");
+    }
+
+    @Test
+    void updateRatesFailsOnNegativeRate() {
+        assertUpdateFails(Map.of("EUR", Map.of("USD", new BigDecimal("-1.08"))),
+                "FX rate from EUR to USD must be positive.");
+    }
+
+    @Test
+    void updateRatesFailsOnNullRate() {
+        Map<String, BigDecimal> targets = new HashMap<>();
+        targets.put("USD", null);
+
+        assertUpdateFails(Map.of("EUR", targets), "FX rate from EUR to USD must be positive.");
+    }
+
+    @Test
+    void updateRatesFailsOnNullTargets() {
+        Map<String, Map<String, BigDecimal>> rates = new HashMap<>();
+        rates.put("EUR", null);
+
+        assertUpdateFails(rates, "FX rates from EUR must not be null.");
+    }
+
+    private void assertUpdateFails(Map<String, Map<String, BigDecimal>> rates, String message) {
+        FxRateTable previous = fxRateService.getRates();
+        try {
+            fxRateService.updateRates(rates);
+            fail("Should have failed on invalid rates");
+        } catch (IllegalArgumentException ex) {
+            assertThat(ex.getMessage()).isEqualTo(message);
+        }
+        assertThat(fxRateService.getRates()).isSameAs(previous);
+    }
+}
@@ -1,24 +1,33 @@
 package com.dws.challenge.web;
 
+import com.dws.challenge.audit.AuditEventPublisher;
+import com.dws.challenge.audit.AuditEventType;
 import com.dws.challenge.domain.Account;
 import com.dws.challenge.service.AccountsService;
+import com.dws.challenge.service.FxRateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.web.context.WebApplicationContext;
 
 import java.math.BigDecimal;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
 
@@ -32,9 +41,15 @@ class AccountsControllerTest {
     @Autowired
     private AccountsService accountsService;
 
+    @Autowired
+    private FxRateService fxRateService;
+
     @Autowired
     private WebApplicationContext webApplicationContext;
 
+    @MockitoBean
+    private AuditEventPublisher auditEventPublisher;
+
     @BeforeEach
     void prepareMockMvc() {
         this.mockMvc = webAppContextSetup(this.webApplicationContext).build();
@@ -53,6 +68,22 @@ class AccountsControllerTest {
         assertThat(account.getBalance()).isEqualByComparingTo("1000");
     }
 
+    @Test
+    void createAccountWithCurrency() throws Exception {
+        this.mockMvc.perform(post("/v1/accounts").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountId\":\"Id-123\",\"balance\":1000,\"currency\":\"USD\"}"))
+                .andExpect(status().isCreated());
+
+        assertThat(accountsService.getAccount("Id-123").getCurrency()).isEqualTo("USD");
+    }
+
+    @Test
+    void createAccountUnknownCurrency() throws Exception {
+        this.mockMvc.perform(post("/v1/accounts").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"accountId\":\"Id-123\",\"balance\":1000,\"currency\":\"XYZ\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void createDuplicateAccount() throws Exception {
         this.mockMvc.perform(post("/v1/accounts").contentType(MediaType.APPLICATION_JSON)
@@ -100,7 +131,8 @@ class AccountsControllerTest {
         this.mockMvc.perform(get("/v1/accounts/" + uniqueAccountId))
                 .andExpect(status().isOk())
                 .andExpect(
-                        content().string("{\"accountId\":\"" + uniqueAccountId + "\",\"balance\":123.45}"));
+                        content().string("{\"accountId\":\"" + uniqueAccountId
+                                + "\",\"balance\":123.45,\"currency\":\"EUR\"}"));
     }
 
 
@@ -154,5 +186,25 @@ class AccountsControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(request))
                 .andExpect(status().isBadRequest());
+
+        verify(auditEventPublisher).publish(eq(AuditEventType.TRANSFER_REJECTED), eq("Id-1"), eq("Id-999"), any(),
+                eq("Account not found."));
+    }
+
+    @Test
+    void transferBetweenCurrencies() throws Exception {
+        fxRateService.updateRates(Map.of("EUR", Map.of("USD", new BigDecimal("1.10"))));
+        accountsService.createAccount(new Account("Id-1", new BigDecimal("1000"), "EUR"));
+        accountsService.createAccount(new Account("Id-2", new BigDecimal("500"), "USD"));
+
+        String request = "{\"accountFromId\":\"Id-1\",\"accountToId\":\"Id-2\",\"amount\":100}";
+        this.mockMvc.perform(post("/v1/accounts/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(request))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.creditedAmount").value(110.00))
+                .andExpect(jsonPath("$.creditedCurrency").value("USD"));
+
+        assertThat(accountsService.getAccount("Id-2").getBalance()).isEqualByComparingTo("610");
     }
-}
\ No newline at end of file
+}
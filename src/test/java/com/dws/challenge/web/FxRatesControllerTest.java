@@ -0,0 +1,88 @@
+package com.dws.challenge.web;
+
+import com.dws.challenge.audit.AuditEventPublisher;
+import com.dws.challenge.audit.AuditEventType;
+import com.dws.challenge.domain.FxRateTable;
+import com.dws.challenge.service.FxRateService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.webAppContextSetup;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@WebAppConfiguration
+class FxRatesControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FxRateService fxRateService;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @MockitoBean
+    private AuditEventPublisher auditEventPublisher;
+
+    @BeforeEach
+    void prepareMockMvc() {
+        this.mockMvc = webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    void getRates() throws Exception {
+        FxRateTable rates = fxRateService.updateRates(Map.of("EUR", Map.of("USD", new BigDecimal("1.08"))));
+
+        this.mockMvc.perform(get("/v1/fx/rates"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(rates.getVersion()))
+                .andExpect(jsonPath("$.rates.EUR.USD").value(1.08));
+    }
+
+    @Test
+    void updateRates() throws Exception {
+        long previous = fxRateService.getRates().getVersion();
+
+        this.mockMvc.perform(put("/v1/fx/rates").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"EUR\":{\"GBP\":0.86}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(previous + 1))
+                .andExpect(jsonPath("$.rates.EUR.GBP").value(0.86));
+
+        assertThat(fxRateService.getRates().getRate("EUR", "GBP")).isEqualByComparingTo("0.86");
+    }
+
+    @Test
+    void updateRatesUnknownCurrency() throws Exception {
+        this.mockMvc.perform(put("/v1/fx/rates").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"EUR\":{\"XYZ\":1.10}}")).andExpect(status().isBadRequest());
+
+        verify(auditEventPublisher).publish(AuditEventType.REQUEST_REJECTED, null, null, null,
+                "Unknown currency code XYZ.");
+    }
+
+    @Test
+    void updateRatesNegativeRate() throws Exception {
+        this.mockMvc.perform(put("/v1/fx/rates").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"EUR\":{\"USD\":-1.10}}")).andExpect(status().isBadRequest());
+    }
+}